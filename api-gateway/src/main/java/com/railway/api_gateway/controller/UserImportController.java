@@ -0,0 +1,38 @@
+package com.railway.api_gateway.controller;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.railway.api_gateway.dto.UserImportResult;
+import com.railway.api_gateway.model.User;
+import com.railway.api_gateway.security.UserImportService;
+import com.railway.api_gateway.security.UserImportService.ImportInProgressException;
+
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+@RestController
+public class UserImportController {
+	private final UserImportService userImportService;
+
+	public UserImportController(UserImportService userImportService) {
+		this.userImportService = userImportService;
+	}
+
+	/**
+	 * Imports users from an NDJSON upload (one user object per line) or a JSON array. The body is
+	 * decoded as a stream, so the file is never held in memory as a whole.
+	 */
+	@PostMapping(path = "/admin/users/import", consumes = { MediaType.APPLICATION_NDJSON_VALUE,
+			MediaType.APPLICATION_JSON_VALUE })
+	public Mono<ResponseEntity<UserImportResult>> importUsers(@RequestBody Flux<User> users) {
+		return userImportService.importUsers(users)
+				.map(ResponseEntity::ok)
+				.onErrorResume(ImportInProgressException.class,
+						e -> Mono.just(ResponseEntity.status(HttpStatus.CONFLICT).build()));
+	}
+}
@@ -0,0 +1,25 @@
+package com.railway.api_gateway.dto;
+
+import java.util.List;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class UserImportResult {
+    private long total;
+    private long imported;
+    private List<RowError> errors;
+
+    @Data
+    @AllArgsConstructor
+    @NoArgsConstructor
+    public static class RowError {
+        private long row; // 1-based position in the uploaded file
+        private String username;
+        private String message;
+    }
+}
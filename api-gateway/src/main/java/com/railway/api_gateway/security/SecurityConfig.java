@@ -50,8 +50,16 @@ public class SecurityConfig {
             .authorizeExchange(exchanges -> exchanges
                 .pathMatchers("/auth/home","/auth/register", "/auth/login").permitAll()
                 .pathMatchers("/actuator/**").permitAll()
+                .pathMatchers("/admin/**").hasAuthority("ADMIN")
+                // Service-id paths of the discovery locator; services are only reachable through the routes below
+                .pathMatchers("/train-service/**", "/booking-service/**").denyAll()
+                // Fare rule maintenance in train-service; quoting stays open to users
+                .pathMatchers("/trains/fares/rules/**", "/trains/fares/surcharges/**", "/trains/fares/reload")
+                        .hasAuthority("ADMIN")
                 .pathMatchers("/trains/**").hasAnyAuthority("USER", "ADMIN")
                 .pathMatchers("/inventory/**").hasAnyAuthority("USER", "ADMIN")
+                // Bulk export of every user's bookings is a reporting endpoint
+                .pathMatchers("/bookings/export").hasAuthority("ADMIN")
                 .pathMatchers("/bookings/**").hasAnyAuthority("USER", "ADMIN")
                 .anyExchange().authenticated())
             .addFilterAt(jwtAuthenticationFilter(authenticationManager), SecurityWebFiltersOrder.AUTHENTICATION);
@@ -0,0 +1,162 @@
+package com.railway.api_gateway.security;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Service;
+
+import com.railway.api_gateway.dto.UserImportResult;
+import com.railway.api_gateway.dto.UserImportResult.RowError;
+import com.railway.api_gateway.model.User;
+
+import jakarta.annotation.PreDestroy;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Scheduler;
+import reactor.core.scheduler.Schedulers;
+
+/**
+ * Bulk-creates users from a stream. Passwords are BCrypt-hashed on a dedicated, size-limited
+ * scheduler so an import can never take every core away from {@code /auth/login}, and rows are
+ * upserted into {@code users} with JDBC batches instead of one JPA save per user. Only one import
+ * runs at a time.
+ */
+@Service
+public class UserImportService {
+    private static final String UPSERT_SQL = "INSERT INTO users (username, password, roles, first_name, last_name, "
+            + "email, phone_number, address, date_of_birth, id_proof) VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?) "
+            + "ON CONFLICT (username) DO UPDATE SET password = EXCLUDED.password, roles = EXCLUDED.roles, "
+            + "first_name = EXCLUDED.first_name, last_name = EXCLUDED.last_name, email = EXCLUDED.email, "
+            + "phone_number = EXCLUDED.phone_number, address = EXCLUDED.address, "
+            + "date_of_birth = EXCLUDED.date_of_birth, id_proof = EXCLUDED.id_proof";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final PasswordEncoder passwordEncoder;
+    private final Scheduler hashScheduler;
+    private final int hashConcurrency;
+    private final int batchSize;
+    private final AtomicBoolean running = new AtomicBoolean();
+    // A cancelled import releases running right away, while a batch it already handed to
+    // boundedElastic may still be writing; this keeps the next import's batches from overlapping it.
+    private final Object writeLock = new Object();
+
+    public UserImportService(JdbcTemplate jdbcTemplate, PasswordEncoder passwordEncoder,
+            @Value("${user-import.hash-threads:0}") int hashThreads,
+            @Value("${user-import.batch-size:1000}") int batchSize) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.passwordEncoder = passwordEncoder;
+        // By default leave half the cores free for live logins, which also hash with BCrypt.
+        this.hashConcurrency = hashThreads > 0 ? hashThreads
+                : Math.max(1, Runtime.getRuntime().availableProcessors() / 2);
+        this.hashScheduler = Schedulers.newParallel("user-import-hash", hashConcurrency);
+        this.batchSize = batchSize;
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        hashScheduler.dispose();
+    }
+
+    /**
+     * @return the import summary, or an {@link ImportInProgressException} error when another import is
+     *         already running
+     */
+    public Mono<UserImportResult> importUsers(Flux<User> users) {
+        return Mono.defer(() -> {
+            if (!running.compareAndSet(false, true)) {
+                return Mono.error(new ImportInProgressException());
+            }
+            return runImport(users).doFinally(signal -> running.set(false));
+        });
+    }
+
+    private Mono<UserImportResult> runImport(Flux<User> users) {
+        return users.index()
+                .flatMapSequential(row -> Mono.fromCallable(() -> prepare(row.getT1() + 1, row.getT2()))
+                        .subscribeOn(hashScheduler), hashConcurrency)
+                .buffer(batchSize)
+                .concatMap(batch -> Mono.fromCallable(() -> insert(batch)).subscribeOn(Schedulers.boundedElastic()))
+                .reduceWith(() -> new UserImportResult(0, 0, new ArrayList<>()), (result, batch) -> {
+                    result.setTotal(result.getTotal() + batch.getTotal());
+                    result.setImported(result.getImported() + batch.getImported());
+                    result.getErrors().addAll(batch.getErrors());
+                    return result;
+                });
+    }
+
+    private ImportRow prepare(long row, User user) {
+        if (isBlank(user.getUsername()) || isBlank(user.getPassword()) || isBlank(user.getRoles())) {
+            return new ImportRow(row, user, "username, password and roles are required");
+        }
+        user.setPassword(passwordEncoder.encode(user.getPassword()));
+        return new ImportRow(row, user, null);
+    }
+
+    private UserImportResult insert(List<ImportRow> batch) {
+        synchronized (writeLock) {
+            return write(batch);
+        }
+    }
+
+    private UserImportResult write(List<ImportRow> batch) {
+        List<RowError> errors = new ArrayList<>();
+        List<ImportRow> valid = new ArrayList<>(batch.size());
+        for (ImportRow row : batch) {
+            if (row.error() != null) {
+                errors.add(new RowError(row.row(), row.user().getUsername(), row.error()));
+            } else {
+                valid.add(row);
+            }
+        }
+
+        if (valid.isEmpty()) {
+            return new UserImportResult(batch.size(), 0, errors);
+        }
+        long imported = valid.size();
+        try {
+            jdbcTemplate.batchUpdate(UPSERT_SQL, valid, valid.size(), (ps, row) -> {
+                Object[] args = parameters(row.user());
+                for (int i = 0; i < args.length; i++) {
+                    ps.setObject(i + 1, args[i]);
+                }
+            });
+        } catch (DataAccessException batchFailure) {
+            // Replay the batch row by row to find the offending rows and still import the rest. Rows
+            // that already made it in are simply upserted again.
+            imported = 0;
+            for (ImportRow row : valid) {
+                try {
+                    jdbcTemplate.update(UPSERT_SQL, parameters(row.user()));
+                    imported++;
+                } catch (DataAccessException e) {
+                    errors.add(new RowError(row.row(), row.user().getUsername(), e.getMostSpecificCause().getMessage()));
+                }
+            }
+        }
+        return new UserImportResult(batch.size(), imported, errors);
+    }
+
+    private static Object[] parameters(User user) {
+        return new Object[] { user.getUsername(), user.getPassword(), user.getRoles(), user.getFirstName(),
+                user.getLastName(), user.getEmail(), user.getPhoneNumber(), user.getAddress(), user.getDateOfBirth(),
+                user.getIdProof() };
+    }
+
+    private static boolean isBlank(String value) {
+        return value == null || value.isBlank();
+    }
+
+    public static class ImportInProgressException extends RuntimeException {
+        public ImportInProgressException() {
+            super("A user import is already running");
+        }
+    }
+
+    private record ImportRow(long row, User user, String error) {
+    }
+}
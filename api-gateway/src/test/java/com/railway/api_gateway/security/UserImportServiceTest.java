@@ -0,0 +1,123 @@
+package com.railway.api_gateway.security;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import com.railway.api_gateway.dto.UserImportResult;
+import com.railway.api_gateway.dto.UserImportResult.RowError;
+import com.railway.api_gateway.model.User;
+
+import reactor.core.Disposable;
+import reactor.core.publisher.Flux;
+
+// The upsert is PostgreSQL-specific (ON CONFLICT), so it runs against a real PostgreSQL; skipped without Docker.
+@Testcontainers(disabledWithoutDocker = true)
+class UserImportServiceTest {
+
+	@Container
+	private static final PostgreSQLContainer<?> postgres = new PostgreSQLContainer<>("postgres:16-alpine");
+
+	private final BCryptPasswordEncoder passwordEncoder = new BCryptPasswordEncoder(4);
+	private JdbcTemplate jdbcTemplate;
+	private UserImportService importService;
+
+	@BeforeEach
+	void setUp() {
+		jdbcTemplate = new JdbcTemplate(new DriverManagerDataSource(
+				postgres.getJdbcUrl(), postgres.getUsername(), postgres.getPassword()));
+		// Same definition as init-databases.sh
+		jdbcTemplate.execute("CREATE TABLE users (username VARCHAR(255) PRIMARY KEY, password VARCHAR(255) NOT NULL, "
+				+ "roles VARCHAR(255) NOT NULL, first_name VARCHAR(255), last_name VARCHAR(255), email VARCHAR(255), "
+				+ "phone_number VARCHAR(20), address TEXT, date_of_birth VARCHAR(10), id_proof VARCHAR(50))");
+		importService = new UserImportService(jdbcTemplate, passwordEncoder, 2, 10);
+	}
+
+	@AfterEach
+	void tearDown() {
+		jdbcTemplate.execute("DROP TABLE users");
+		importService.shutdown();
+	}
+
+	private static User user(String username, String password, String roles) {
+		User user = new User();
+		user.setUsername(username);
+		user.setPassword(password);
+		user.setRoles(roles);
+		return user;
+	}
+
+	private int count() {
+		return jdbcTemplate.queryForObject("SELECT COUNT(*) FROM users", Integer.class);
+	}
+
+	@Test
+	void reportsRowsMissingRequiredFieldsByPosition() {
+		UserImportResult result = importService.importUsers(Flux.just(
+				user("alice", "secret", "USER"),
+				user(null, "secret", "USER"),
+				user("carol", "", "USER"),
+				user("dave", "secret", null),
+				user("erin", "secret", "USER"))).block();
+
+		assertEquals(5, result.getTotal());
+		assertEquals(2, result.getImported());
+		assertEquals(List.of(2L, 3L, 4L), result.getErrors().stream().map(RowError::getRow).toList());
+		assertEquals(2, count());
+	}
+
+	@Test
+	void failingRowDoesNotStopTheRestOfTheBatch() {
+		User tooLong = user("bob", "secret", "USER");
+		tooLong.setPhoneNumber("123456789012345678901234567890");
+
+		UserImportResult result = importService.importUsers(Flux.just(
+				user("alice", "secret", "USER"),
+				tooLong,
+				user("carol", "secret", "ADMIN"))).block();
+
+		assertEquals(3, result.getTotal());
+		assertEquals(2, result.getImported());
+		assertEquals(1, result.getErrors().size());
+		assertEquals(2L, result.getErrors().get(0).getRow());
+		assertEquals("bob", result.getErrors().get(0).getUsername());
+		assertEquals(List.of("alice", "carol"),
+				jdbcTemplate.queryForList("SELECT username FROM users ORDER BY username", String.class));
+	}
+
+	@Test
+	void upsertsExistingUsersWithHashedPasswords() {
+		importService.importUsers(Flux.just(user("alice", "old", "USER"))).block();
+		UserImportResult result = importService.importUsers(Flux.just(user("alice", "new", "ADMIN"))).block();
+
+		assertEquals(1, result.getImported());
+		assertEquals(1, count());
+		assertEquals("ADMIN", jdbcTemplate.queryForObject("SELECT roles FROM users", String.class));
+		assertTrue(passwordEncoder.matches("new", jdbcTemplate.queryForObject("SELECT password FROM users", String.class)));
+	}
+
+	@Test
+	void rejectsConcurrentImportsOnlyWhileOneIsSubscribed() {
+		// Assembling without subscribing must not claim the import slot.
+		importService.importUsers(Flux.never());
+
+		Disposable running = importService.importUsers(Flux.never()).subscribe();
+		assertThrows(UserImportService.ImportInProgressException.class,
+				() -> importService.importUsers(Flux.just(user("alice", "secret", "USER"))).block());
+
+		running.dispose();
+		assertEquals(1, importService.importUsers(Flux.just(user("alice", "secret", "USER"))).block().getImported());
+	}
+}
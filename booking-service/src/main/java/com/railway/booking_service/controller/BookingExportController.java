@@ -0,0 +1,56 @@
+package com.railway.booking_service.controller;
+
+import java.time.LocalDate;
+import java.util.Locale;
+
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.server.ResponseStatusException;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import com.railway.booking_service.service.BookingExportService;
+import com.railway.booking_service.service.BookingExportService.Format;
+
+@RestController
+public class BookingExportController {
+    private final BookingExportService exportService;
+
+    public BookingExportController(BookingExportService exportService) {
+        this.exportService = exportService;
+    }
+
+    /**
+     * Streams all bookings with {@code from <= journeyDate < to} as CSV or NDJSON.
+     */
+    @GetMapping("/export")
+    public ResponseEntity<StreamingResponseBody> export(
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+            @RequestParam(defaultValue = "csv") String format) {
+        Format exportFormat;
+        try {
+            exportFormat = Format.valueOf(format.toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().build();
+        }
+        if (!from.isBefore(to)) {
+            return ResponseEntity.badRequest().build();
+        }
+
+        String filename = "bookings-" + from + "-" + to + "." + format.toLowerCase(Locale.ROOT);
+        return ResponseEntity.ok()
+                .contentType(exportFormat.getMediaType())
+                .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"" + filename + "\"")
+                .body(out -> {
+                    // Nothing has been written yet, so the response can still be turned into a 429.
+                    if (!exportService.export(from, to, exportFormat, out)) {
+                        throw new ResponseStatusException(HttpStatus.TOO_MANY_REQUESTS, "Too many exports running");
+                    }
+                });
+    }
+}
@@ -0,0 +1,47 @@
+package com.railway.booking_service.model;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * A booking row. The {@code bookings} table is range-partitioned by {@code journey_date} (see
+ * {@code schema.sql}), so queries should always bound the journey date to get partition pruning.
+ */
+@Entity
+@Table(name = "bookings")
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class Booking {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+    @Column(nullable = false)
+    private String username;
+    @Column(nullable = false, length = 20)
+    private String trainNumber;
+    @Column(nullable = false)
+    private LocalDate journeyDate;
+    @Column(length = 10)
+    private String travelClass;
+    @Column(length = 20)
+    private String quota;
+    private int passengerCount;
+    @Column(precision = 10, scale = 2)
+    private BigDecimal fare;
+    @Column(nullable = false, length = 20)
+    private String status;
+    @Column(nullable = false)
+    private LocalDateTime createdAt;
+}
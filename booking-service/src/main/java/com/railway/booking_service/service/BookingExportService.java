@@ -0,0 +1,189 @@
+package com.railway.booking_service.service;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.sql.Date;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.concurrent.Semaphore;
+
+import javax.sql.DataSource;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.MediaType;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+
+/**
+ * Streams bookings for a journey-date range straight from a server-side cursor to the caller. Rows
+ * are fetched {@code fetchSize} at a time and written as they arrive, so memory stays flat no matter
+ * how many rows match. The number of concurrent exports is capped so they cannot drain the
+ * connection pool used by the booking path.
+ */
+@Service
+public class BookingExportService {
+    private static final String[] COLUMNS = { "id", "username", "train_number", "journey_date", "travel_class",
+            "quota", "passenger_count", "fare", "status", "created_at" };
+    private static final String EXPORT_SQL = "SELECT " + String.join(", ", COLUMNS)
+            + " FROM bookings WHERE journey_date >= ? AND journey_date < ?";
+
+    public enum Format {
+        CSV(new MediaType("text", "csv")),
+        NDJSON(MediaType.APPLICATION_NDJSON);
+
+        private final MediaType mediaType;
+
+        Format(MediaType mediaType) {
+            this.mediaType = mediaType;
+        }
+
+        public MediaType getMediaType() {
+            return mediaType;
+        }
+    }
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final JsonFactory jsonFactory = new JsonFactory();
+    private final Semaphore permits;
+    private final String timeoutSql;
+    private final String idleTimeoutSql;
+
+    public BookingExportService(DataSource dataSource, PlatformTransactionManager transactionManager,
+            @Value("${booking.export.fetch-size:1000}") int fetchSize,
+            @Value("${booking.export.max-concurrent:2}") int maxConcurrent,
+            @Value("${booking.export.timeout:15m}") Duration timeout,
+            @Value("${booking.export.idle-timeout:60s}") Duration idleTimeout) {
+        this.jdbcTemplate = new JdbcTemplate(dataSource);
+        this.jdbcTemplate.setFetchSize(fetchSize);
+        // The PostgreSQL driver only uses a cursor (instead of buffering the whole result) when
+        // autocommit is off, hence the read-only transaction around the query.
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setReadOnly(true);
+        // Bound how long an export can hold a pooled connection and an old snapshot (which holds back
+        // vacuum on bookings): the transaction as a whole, and the time spent waiting on a slow client
+        // between cursor fetches.
+        this.transactionTemplate.setTimeout((int) timeout.toSeconds());
+        this.timeoutSql = "SET LOCAL statement_timeout = " + timeout.toMillis();
+        this.idleTimeoutSql = "SET LOCAL idle_in_transaction_session_timeout = " + idleTimeout.toMillis();
+        this.permits = new Semaphore(maxConcurrent);
+    }
+
+    /**
+     * Writes the export to {@code out}. The export slot is taken and released here, around the query,
+     * so it cannot leak if the stream is never started.
+     *
+     * @return {@code false} without writing anything when all export slots are busy
+     */
+    public boolean export(LocalDate from, LocalDate to, Format format, OutputStream out) throws IOException {
+        if (!permits.tryAcquire()) {
+            return false;
+        }
+        try {
+            Writer writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8));
+            if (format == Format.CSV) {
+                writer.write(String.join(",", COLUMNS));
+                writer.write('\n');
+                query(from, to, rs -> writeCsvRow(rs, writer));
+                writer.flush();
+            } else {
+                JsonGenerator json = jsonFactory.createGenerator(writer);
+                json.setRootValueSeparator(null); // rows are separated by the explicit newline instead
+                query(from, to, rs -> writeJsonRow(rs, json));
+                json.flush();
+            }
+            return true;
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        } finally {
+            permits.release();
+        }
+    }
+
+    private void query(LocalDate from, LocalDate to, RowCallbackHandler handler) {
+        transactionTemplate.executeWithoutResult(status -> {
+            if (isPostgres()) {
+                jdbcTemplate.execute(timeoutSql);
+                jdbcTemplate.execute(idleTimeoutSql);
+            }
+            jdbcTemplate.query(EXPORT_SQL, handler, Date.valueOf(from), Date.valueOf(to));
+        });
+    }
+
+    private boolean isPostgres() {
+        return Boolean.TRUE.equals(jdbcTemplate.execute((ConnectionCallback<Boolean>) connection ->
+                "PostgreSQL".equals(connection.getMetaData().getDatabaseProductName())));
+    }
+
+    private static void writeCsvRow(ResultSet rs, Writer writer) throws SQLException {
+        try {
+            for (int i = 0; i < COLUMNS.length; i++) {
+                if (i > 0) {
+                    writer.write(',');
+                }
+                writer.write(csv(value(rs, i + 1)));
+            }
+            writer.write('\n');
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static void writeJsonRow(ResultSet rs, JsonGenerator json) throws SQLException {
+        try {
+            json.writeStartObject();
+            json.writeNumberField("id", rs.getLong(1));
+            json.writeStringField("username", rs.getString(2));
+            json.writeStringField("trainNumber", rs.getString(3));
+            json.writeStringField("journeyDate", value(rs, 4));
+            json.writeStringField("travelClass", rs.getString(5));
+            json.writeStringField("quota", rs.getString(6));
+            json.writeNumberField("passengerCount", rs.getInt(7));
+            json.writeFieldName("fare");
+            json.writeNumber(rs.getBigDecimal(8));
+            json.writeStringField("status", rs.getString(9));
+            json.writeStringField("createdAt", value(rs, 10));
+            json.writeEndObject();
+            json.writeRaw('\n');
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static String value(ResultSet rs, int column) throws SQLException {
+        Object value = rs.getObject(column);
+        if (value instanceof Date date) {
+            return date.toLocalDate().toString();
+        }
+        if (value instanceof Timestamp timestamp) {
+            return timestamp.toLocalDateTime().toString();
+        }
+        return value == null ? null : value.toString();
+    }
+
+    private static String csv(String value) {
+        if (value == null) {
+            return "";
+        }
+        if (value.indexOf(',') >= 0 || value.indexOf('"') >= 0 || value.indexOf('\n') >= 0
+                || value.indexOf('\r') >= 0) {
+            return '"' + value.replace("\"", "\"\"") + '"';
+        }
+        return value;
+    }
+}
@@ -0,0 +1,145 @@
+package com.railway.booking_service.service;
+
+import java.time.YearMonth;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.SingleConnectionDataSource;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * Maintains the monthly journey-date partitions of {@code bookings}: creates the upcoming months
+ * ahead of the booking window and moves partitions past retention out of the live table into the
+ * archive schema, where they can be dumped or dropped without touching the booking path.
+ */
+@Component
+public class BookingPartitionManager {
+    private static final Logger log = LoggerFactory.getLogger(BookingPartitionManager.class);
+    private static final long MAINTENANCE_LOCK_KEY = 0x626f6f6b696e67L; // "booking"
+    private static final Pattern PARTITION_NAME = Pattern.compile("bookings_p(\\d{4})_(\\d{2})");
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Value("${booking.partitions.premake-months:6}")
+    private int premakeMonths;
+
+    @Value("${booking.partitions.retention-months:12}")
+    private int retentionMonths;
+
+    @Value("${booking.partitions.archive-schema:booking_archive}")
+    private String archiveSchema;
+
+    public BookingPartitionManager(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void maintainOnStartup() {
+        try {
+            maintain();
+        } catch (Exception e) {
+            log.warn("Could not maintain booking partitions on startup: {}", e.getMessage());
+        }
+    }
+
+    @Scheduled(cron = "${booking.partitions.cron:0 30 2 * * *}")
+    public synchronized void maintain() {
+        // DETACH ... CONCURRENTLY cannot run inside a transaction, so the advisory lock that keeps
+        // other booking-service instances out has to be a session lock, held on one connection.
+        jdbcTemplate.execute((ConnectionCallback<Void>) connection -> {
+            JdbcTemplate session = new JdbcTemplate(new SingleConnectionDataSource(connection, true));
+            Boolean locked = session.queryForObject("SELECT pg_try_advisory_lock(?)", Boolean.class,
+                    MAINTENANCE_LOCK_KEY);
+            if (!Boolean.TRUE.equals(locked)) {
+                log.info("Booking partition maintenance is running elsewhere, skipping");
+                return null;
+            }
+            try {
+                maintain(session);
+            } finally {
+                session.queryForObject("SELECT pg_advisory_unlock(?)", Boolean.class, MAINTENANCE_LOCK_KEY);
+            }
+            return null;
+        });
+    }
+
+    private void maintain(JdbcTemplate session) {
+        YearMonth current = YearMonth.now();
+        for (int i = 0; i <= premakeMonths; i++) {
+            createPartition(session, current.plusMonths(i));
+        }
+
+        YearMonth oldestRetained = oldestRetained(current, retentionMonths);
+        session.query("SELECT c.relname, i.inhdetachpending FROM pg_inherits i "
+                + "JOIN pg_class c ON c.oid = i.inhrelid "
+                + "JOIN pg_class p ON p.oid = i.inhparent "
+                + "WHERE p.relname = 'bookings'",
+                (rs, rowNum) -> new LivePartition(rs.getString(1), rs.getBoolean(2)))
+                .forEach(partition -> {
+                    if (partition.detachPending()) {
+                        // An earlier run was interrupted mid-detach; the partition stays half-detached
+                        // (and blocks any new concurrent detach) until it is finalized.
+                        archivePartition(session, partition.name(), "FINALIZE");
+                    } else if (isPastRetention(partition.name(), oldestRetained)) {
+                        archivePartition(session, partition.name(), "CONCURRENTLY");
+                    }
+                });
+
+        // A run interrupted between detaching and moving leaves a plain table behind in the live schema.
+        session.queryForList("SELECT c.relname FROM pg_class c "
+                + "WHERE c.relkind = 'r' AND NOT c.relispartition AND c.relname LIKE 'bookings\\_p%' "
+                + "AND c.relnamespace = current_schema()::regnamespace", String.class)
+                .forEach(table -> moveToArchive(session, table));
+    }
+
+    private void createPartition(JdbcTemplate session, YearMonth month) {
+        session.execute(String.format(
+                "CREATE TABLE IF NOT EXISTS %s PARTITION OF bookings FOR VALUES FROM ('%s') TO ('%s')",
+                partitionName(month), month.atDay(1), month.plusMonths(1).atDay(1)));
+    }
+
+    private void archivePartition(JdbcTemplate session, String partition, String detachMode) {
+        // CONCURRENTLY only takes a SHARE UPDATE EXCLUSIVE lock on the parent, so inserts into the
+        // current partitions keep flowing while the old one is detached.
+        session.execute("ALTER TABLE bookings DETACH PARTITION " + partition + " " + detachMode);
+        moveToArchive(session, partition);
+    }
+
+    private void moveToArchive(JdbcTemplate session, String table) {
+        session.execute("CREATE SCHEMA IF NOT EXISTS " + archiveSchema);
+        session.execute("ALTER TABLE " + table + " SET SCHEMA " + archiveSchema);
+        log.info("Archived booking partition {} to schema {}", table, archiveSchema);
+    }
+
+    static String partitionName(YearMonth month) {
+        return String.format("bookings_p%04d_%02d", month.getYear(), month.getMonthValue());
+    }
+
+    /**
+     * @return the first month whose partition is kept in the live table
+     */
+    static YearMonth oldestRetained(YearMonth current, int retentionMonths) {
+        return current.minusMonths(retentionMonths);
+    }
+
+    /**
+     * @return whether {@code partition} is a monthly bookings partition older than {@code oldestRetained};
+     *         tables not following the naming scheme are never archived
+     */
+    static boolean isPastRetention(String partition, YearMonth oldestRetained) {
+        Matcher m = PARTITION_NAME.matcher(partition);
+        return m.matches() && YearMonth.of(Integer.parseInt(m.group(1)), Integer.parseInt(m.group(2)))
+                .isBefore(oldestRetained);
+    }
+
+    private record LivePartition(String name, boolean detachPending) {
+    }
+}
@@ -0,0 +1,18 @@
+-- Bookings are range-partitioned by journey date, one partition per month. Partitions are created
+-- ahead of time and detached into the archive schema once they fall out of retention by
+-- BookingPartitionManager. The primary key has to include the partition key.
+CREATE TABLE IF NOT EXISTS bookings (
+    id BIGSERIAL,
+    username VARCHAR(255) NOT NULL,
+    train_number VARCHAR(20) NOT NULL,
+    journey_date DATE NOT NULL,
+    travel_class VARCHAR(10),
+    quota VARCHAR(20),
+    passenger_count INTEGER NOT NULL,
+    fare NUMERIC(10, 2),
+    status VARCHAR(20) NOT NULL,
+    created_at TIMESTAMP NOT NULL,
+    PRIMARY KEY (id, journey_date)
+) PARTITION BY RANGE (journey_date);
+
+CREATE INDEX IF NOT EXISTS idx_bookings_username ON bookings (username, journey_date);
@@ -0,0 +1,126 @@
+package com.railway.booking_service.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.UUID;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.railway.booking_service.service.BookingExportService.Format;
+
+class BookingExportServiceTest {
+
+	private static final LocalDate FROM = LocalDate.of(2024, 3, 1);
+	private static final LocalDate TO = LocalDate.of(2024, 4, 1);
+
+	private DriverManagerDataSource dataSource;
+	private JdbcTemplate jdbcTemplate;
+
+	@BeforeEach
+	void setUp() {
+		dataSource = new DriverManagerDataSource(
+				"jdbc:h2:mem:" + UUID.randomUUID() + ";MODE=PostgreSQL;DB_CLOSE_DELAY=-1", "sa", "");
+		jdbcTemplate = new JdbcTemplate(dataSource);
+		// schema.sql without the partitioning, which H2 does not support
+		jdbcTemplate.execute("CREATE TABLE bookings (id BIGINT NOT NULL, username VARCHAR(255) NOT NULL, "
+				+ "train_number VARCHAR(20) NOT NULL, journey_date DATE NOT NULL, travel_class VARCHAR(10), "
+				+ "quota VARCHAR(20), passenger_count INTEGER NOT NULL, fare NUMERIC(10, 2), "
+				+ "status VARCHAR(20) NOT NULL, created_at TIMESTAMP NOT NULL, PRIMARY KEY (id, journey_date))");
+	}
+
+	@AfterEach
+	void tearDown() {
+		jdbcTemplate.execute("SHUTDOWN");
+	}
+
+	private BookingExportService service(int maxConcurrent) {
+		return new BookingExportService(dataSource, new DataSourceTransactionManager(dataSource), 2, maxConcurrent,
+				Duration.ofMinutes(1), Duration.ofSeconds(10));
+	}
+
+	private void insert(long id, String username, String journeyDate, String travelClass, String fare) {
+		jdbcTemplate.update("INSERT INTO bookings VALUES (?, ?, '12951', ?, ?, 'GENERAL', 2, ?, 'CONFIRMED', "
+				+ "TIMESTAMP '2024-02-01 10:15:30')", id, username, LocalDate.parse(journeyDate), travelClass,
+				fare == null ? null : new BigDecimal(fare));
+	}
+
+	private static String export(BookingExportService service, Format format) throws IOException {
+		ByteArrayOutputStream out = new ByteArrayOutputStream();
+		assertTrue(service.export(FROM, TO, format, out));
+		return out.toString(StandardCharsets.UTF_8);
+	}
+
+	@Test
+	void writesCsvWithHeaderAndEscapedValues() throws IOException {
+		insert(1, "plain", "2024-03-05", "SL", "450.00");
+		insert(2, "doe, \"jd\"", "2024-03-10", null, null);
+		insert(3, "multi\nline", "2024-03-31", "3A", "1200.50");
+		insert(4, "outside", "2024-04-01", "SL", "100.00");
+
+		String csv = export(service(1), Format.CSV);
+
+		assertEquals("id,username,train_number,journey_date,travel_class,quota,passenger_count,fare,status,created_at\n"
+				+ "1,plain,12951,2024-03-05,SL,GENERAL,2,450.00,CONFIRMED,2024-02-01T10:15:30\n"
+				+ "2,\"doe, \"\"jd\"\"\",12951,2024-03-10,,GENERAL,2,,CONFIRMED,2024-02-01T10:15:30\n"
+				+ "3,\"multi\nline\",12951,2024-03-31,3A,GENERAL,2,1200.50,CONFIRMED,2024-02-01T10:15:30\n", csv);
+	}
+
+	@Test
+	void writesOneJsonObjectPerLine() throws IOException {
+		insert(1, "alice", "2024-03-05", "SL", "450.00");
+		insert(2, "bob", "2024-03-06", "SL", null);
+
+		String[] lines = export(service(1), Format.NDJSON).split("\n");
+
+		assertEquals(2, lines.length);
+		ObjectMapper mapper = new ObjectMapper();
+		JsonNode first = mapper.readTree(lines[0]);
+		assertEquals("alice", first.get("username").asText());
+		assertEquals("2024-03-05", first.get("journeyDate").asText());
+		assertTrue(lines[0].contains("\"fare\":450.00"), lines[0]); // scale kept as stored
+		JsonNode second = mapper.readTree(lines[1]);
+		assertEquals(2, second.get("id").asLong());
+		assertTrue(second.get("fare").isNull());
+	}
+
+	@Test
+	void refusesWithoutWritingWhenAllSlotsAreBusy() throws IOException {
+		insert(1, "alice", "2024-03-05", "SL", "450.00");
+		ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+		assertFalse(service(0).export(FROM, TO, Format.CSV, out));
+		assertEquals(0, out.size());
+	}
+
+	@Test
+	void releasesTheSlotWhenTheClientFails() throws IOException {
+		insert(1, "alice", "2024-03-05", "SL", "450.00");
+		BookingExportService service = service(1);
+		OutputStream broken = new OutputStream() {
+			@Override
+			public void write(int b) throws IOException {
+				throw new IOException("client went away");
+			}
+		};
+
+		assertThrows(IOException.class, () -> service.export(FROM, TO, Format.CSV, broken));
+		export(service, Format.CSV);
+	}
+}
@@ -0,0 +1,43 @@
+package com.railway.booking_service.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.YearMonth;
+
+import org.junit.jupiter.api.Test;
+
+class BookingPartitionManagerTest {
+
+	@Test
+	void namesPartitionsByZeroPaddedMonth() {
+		assertEquals("bookings_p2024_03", BookingPartitionManager.partitionName(YearMonth.of(2024, 3)));
+		assertEquals("bookings_p2024_12", BookingPartitionManager.partitionName(YearMonth.of(2024, 12)));
+	}
+
+	@Test
+	void retainsTheConfiguredNumberOfPastMonths() {
+		assertEquals(YearMonth.of(2023, 3), BookingPartitionManager.oldestRetained(YearMonth.of(2024, 3), 12));
+		assertEquals(YearMonth.of(2023, 12), BookingPartitionManager.oldestRetained(YearMonth.of(2024, 2), 2));
+	}
+
+	@Test
+	void archivesOnlyPartitionsBeforeTheOldestRetainedMonth() {
+		YearMonth oldestRetained = YearMonth.of(2023, 3);
+
+		assertTrue(BookingPartitionManager.isPastRetention("bookings_p2023_02", oldestRetained));
+		assertTrue(BookingPartitionManager.isPastRetention("bookings_p2022_12", oldestRetained));
+		assertFalse(BookingPartitionManager.isPastRetention("bookings_p2023_03", oldestRetained));
+		assertFalse(BookingPartitionManager.isPastRetention("bookings_p2024_01", oldestRetained));
+	}
+
+	@Test
+	void ignoresTablesOutsideTheNamingScheme() {
+		YearMonth oldestRetained = YearMonth.of(2023, 3);
+
+		assertFalse(BookingPartitionManager.isPastRetention("bookings_default", oldestRetained));
+		assertFalse(BookingPartitionManager.isPastRetention("bookings_p2020_1", oldestRetained));
+		assertFalse(BookingPartitionManager.isPastRetention("bookings_p2020_01_old", oldestRetained));
+	}
+}
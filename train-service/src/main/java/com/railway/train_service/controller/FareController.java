@@ -0,0 +1,73 @@
+package com.railway.train_service.controller;
+
+import java.util.List;
+
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.ExceptionHandler;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.railway.train_service.dto.FareQuoteRequest;
+import com.railway.train_service.dto.FareQuoteResponse;
+import com.railway.train_service.model.FareRule;
+import com.railway.train_service.model.QuotaSurcharge;
+import com.railway.train_service.service.FareEngine;
+
+@RestController
+@RequestMapping("/fares")
+public class FareController {
+    private final FareEngine fareEngine;
+
+    public FareController(FareEngine fareEngine) {
+        this.fareEngine = fareEngine;
+    }
+
+    @GetMapping
+    public FareQuoteResponse quote(@RequestParam String travelClass,
+            @RequestParam(required = false) String quota, @RequestParam int distanceKm) {
+        return fareEngine.quote(new FareQuoteRequest(travelClass, quota, distanceKm));
+    }
+
+    /**
+     * Prices every entry of a search result set in one call.
+     */
+    @PostMapping("/quote")
+    public List<FareQuoteResponse> quoteAll(@RequestBody List<FareQuoteRequest> requests) {
+        return fareEngine.quoteAll(requests);
+    }
+
+    @GetMapping("/rules")
+    public List<FareRule> rules() {
+        return fareEngine.getRules();
+    }
+
+    @PostMapping("/rules")
+    public List<FareRule> saveRules(@RequestBody List<FareRule> rules) {
+        return fareEngine.saveRules(rules);
+    }
+
+    @GetMapping("/surcharges")
+    public List<QuotaSurcharge> surcharges() {
+        return fareEngine.getSurcharges();
+    }
+
+    @PostMapping("/surcharges")
+    public List<QuotaSurcharge> saveSurcharges(@RequestBody List<QuotaSurcharge> surcharges) {
+        return fareEngine.saveSurcharges(surcharges);
+    }
+
+    @ExceptionHandler(IllegalArgumentException.class)
+    public ResponseEntity<String> invalidRules(IllegalArgumentException e) {
+        return ResponseEntity.badRequest().body(e.getMessage());
+    }
+
+    @PostMapping("/reload")
+    public ResponseEntity<String> reload() {
+        fareEngine.recompile();
+        return ResponseEntity.ok("Fare table recompiled");
+    }
+}
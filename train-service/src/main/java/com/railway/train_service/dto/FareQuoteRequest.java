@@ -0,0 +1,14 @@
+package com.railway.train_service.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class FareQuoteRequest {
+    private String travelClass;
+    private String quota;
+    private int distanceKm;
+}
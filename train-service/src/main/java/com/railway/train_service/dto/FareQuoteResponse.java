@@ -0,0 +1,17 @@
+package com.railway.train_service.dto;
+
+import java.math.BigDecimal;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class FareQuoteResponse {
+    private String travelClass;
+    private String quota;
+    private int distanceKm;
+    private BigDecimal fare; // null when no rule covers the request
+}
@@ -0,0 +1,33 @@
+package com.railway.train_service.model;
+
+import java.math.BigDecimal;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Base fare for a travel class over an inclusive distance band, e.g. SL from 1 to 50 km.
+ */
+@Entity
+@Table(name = "fare_rules")
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class FareRule {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+    @Column(nullable = false)
+    private String travelClass;
+    private int distanceFromKm;
+    private int distanceToKm;
+    @Column(nullable = false, precision = 10, scale = 2)
+    private BigDecimal baseFare;
+}
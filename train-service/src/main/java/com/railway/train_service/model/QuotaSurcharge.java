@@ -0,0 +1,38 @@
+package com.railway.train_service.model;
+
+import java.math.BigDecimal;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Surcharge applied on top of the base fare for a quota and class, e.g. TATKAL on 3A is 30% of the
+ * base fare, at least 300 and at most 400. A null maximum means the surcharge is uncapped.
+ */
+@Entity
+@Table(name = "quota_surcharges")
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class QuotaSurcharge {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+    @Column(nullable = false)
+    private String quota;
+    @Column(nullable = false)
+    private String travelClass;
+    @Column(nullable = false, precision = 5, scale = 2)
+    private BigDecimal percentage;
+    @Column(precision = 10, scale = 2)
+    private BigDecimal minAmount;
+    @Column(precision = 10, scale = 2)
+    private BigDecimal maxAmount;
+}
@@ -0,0 +1,10 @@
+package com.railway.train_service.repository;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import com.railway.train_service.model.FareRule;
+
+@Repository
+public interface FareRuleRepository extends JpaRepository<FareRule, Long> {
+}
@@ -0,0 +1,10 @@
+package com.railway.train_service.repository;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import com.railway.train_service.model.QuotaSurcharge;
+
+@Repository
+public interface QuotaSurchargeRepository extends JpaRepository<QuotaSurcharge, Long> {
+}
@@ -0,0 +1,161 @@
+package com.railway.train_service.service;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.railway.train_service.dto.FareQuoteRequest;
+import com.railway.train_service.dto.FareQuoteResponse;
+import com.railway.train_service.model.FareRule;
+import com.railway.train_service.model.QuotaSurcharge;
+import com.railway.train_service.repository.FareRuleRepository;
+import com.railway.train_service.repository.QuotaSurchargeRepository;
+
+/**
+ * Prices journeys from a precompiled {@link FareTable}. Readers only dereference the current table,
+ * so quoting never locks; rule changes compile a fresh table and publish it with a single volatile
+ * write (copy-on-write) after the change has committed. This serializes writers within one instance;
+ * other instances pick up the change on their next reload.
+ */
+@Service
+public class FareEngine {
+    private static final Logger log = LoggerFactory.getLogger(FareEngine.class);
+
+    private final FareRuleRepository fareRuleRepository;
+    private final QuotaSurchargeRepository quotaSurchargeRepository;
+
+    private final TransactionTemplate transactionTemplate;
+    private final int maxDistanceKm;
+    // Guards every read-compile-(write)-publish cycle. It is taken outside the transaction and held
+    // until after commit, so no cycle can read rows another cycle has not committed yet.
+    private final Object rulesLock = new Object();
+
+    private volatile FareTable table = FareTable.EMPTY;
+
+    public FareEngine(FareRuleRepository fareRuleRepository, QuotaSurchargeRepository quotaSurchargeRepository,
+            PlatformTransactionManager transactionManager, @Value("${fares.max-distance-km:5000}") int maxDistanceKm) {
+        this.fareRuleRepository = fareRuleRepository;
+        this.quotaSurchargeRepository = quotaSurchargeRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.maxDistanceKm = maxDistanceKm;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void compileOnStartup() {
+        try {
+            recompile();
+        } catch (Exception e) {
+            // Keep serving (with no fares) rather than failing startup; a reload can be triggered later.
+            log.warn("Could not compile fare table on startup: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * Rebuilds the fare table from {@code traindb} and swaps it in.
+     */
+    public void recompile() {
+        synchronized (rulesLock) {
+            FareTable compiled = transactionTemplate.execute(status -> FareTable.compile(
+                    fareRuleRepository.findAll(), quotaSurchargeRepository.findAll(), maxDistanceKm));
+            table = compiled;
+            log.info("Compiled fare table: {} entries", compiled.size());
+        }
+    }
+
+    /**
+     * Compiles the existing rules merged with {@code rules} before anything is written, so a rule set
+     * that would not compile is rejected with an {@link IllegalArgumentException} and never reaches
+     * {@code traindb}. The new table is published only once the transaction has committed.
+     */
+    public List<FareRule> saveRules(List<FareRule> rules) {
+        synchronized (rulesLock) {
+            List<FareRule> saved = new ArrayList<>();
+            FareTable compiled = transactionTemplate.execute(status -> {
+                FareTable candidate = FareTable.compile(merge(fareRuleRepository.findAll(), rules, FareRule::getId),
+                        quotaSurchargeRepository.findAll(), maxDistanceKm);
+                saved.addAll(fareRuleRepository.saveAll(rules));
+                return candidate;
+            });
+            table = compiled;
+            return saved;
+        }
+    }
+
+    public List<QuotaSurcharge> saveSurcharges(List<QuotaSurcharge> surcharges) {
+        synchronized (rulesLock) {
+            List<QuotaSurcharge> saved = new ArrayList<>();
+            FareTable compiled = transactionTemplate.execute(status -> {
+                FareTable candidate = FareTable.compile(fareRuleRepository.findAll(),
+                        merge(quotaSurchargeRepository.findAll(), surcharges, QuotaSurcharge::getId), maxDistanceKm);
+                saved.addAll(quotaSurchargeRepository.saveAll(surcharges));
+                return candidate;
+            });
+            table = compiled;
+            return saved;
+        }
+    }
+
+    public List<FareRule> getRules() {
+        return fareRuleRepository.findAll();
+    }
+
+    public List<QuotaSurcharge> getSurcharges() {
+        return quotaSurchargeRepository.findAll();
+    }
+
+    public FareQuoteResponse quote(FareQuoteRequest request) {
+        return quote(table, request);
+    }
+
+    /**
+     * Prices a whole search result set against one snapshot, so every row in a response is quoted
+     * from the same rule version even if a recompile happens mid-request.
+     */
+    public List<FareQuoteResponse> quoteAll(List<FareQuoteRequest> requests) {
+        FareTable snapshot = table;
+        List<FareQuoteResponse> quotes = new ArrayList<>(requests.size());
+        for (FareQuoteRequest request : requests) {
+            quotes.add(quote(snapshot, request));
+        }
+        return quotes;
+    }
+
+    /**
+     * Overlays {@code changes} onto {@code existing}: rows with an id replace the stored row, rows
+     * without one are new.
+     */
+    private static <T> List<T> merge(List<T> existing, List<T> changes, Function<T, Long> id) {
+        Map<Long, T> byId = new LinkedHashMap<>();
+        for (T row : existing) {
+            byId.put(id.apply(row), row);
+        }
+        List<T> merged = new ArrayList<>();
+        for (T row : changes) {
+            if (id.apply(row) != null) {
+                byId.put(id.apply(row), row);
+            } else {
+                merged.add(row);
+            }
+        }
+        merged.addAll(byId.values());
+        return merged;
+    }
+
+    private static FareQuoteResponse quote(FareTable snapshot, FareQuoteRequest request) {
+        long paise = snapshot.lookup(request.getTravelClass(), request.getQuota(), request.getDistanceKm());
+        BigDecimal fare = paise == FareTable.NO_FARE ? null : BigDecimal.valueOf(paise, 2);
+        return new FareQuoteResponse(request.getTravelClass(), request.getQuota(), request.getDistanceKm(), fare);
+    }
+}
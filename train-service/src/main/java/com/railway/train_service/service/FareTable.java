@@ -0,0 +1,208 @@
+package com.railway.train_service.service;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.TreeSet;
+
+import com.railway.train_service.model.FareRule;
+import com.railway.train_service.model.QuotaSurcharge;
+
+/**
+ * Immutable, precompiled view of the fare rules. Fares are stored in paise in one flat array laid
+ * out as [quota][class][band], so a lookup is two map hits, one array read for the band and one for
+ * the fare. A new table is built whenever the rules change and is never mutated afterwards.
+ */
+final class FareTable {
+    static final String GENERAL_QUOTA = "GENERAL";
+    static final long NO_FARE = -1L;
+
+    static final FareTable EMPTY = new FareTable(Map.of(), Map.of(GENERAL_QUOTA, 0), new int[0], 0, new long[0]);
+
+    private final Map<String, Integer> classIndex;
+    private final Map<String, Integer> quotaIndex;
+    private final int[] bandOfKm;
+    private final int bandCount;
+    private final long[] fares;
+
+    private FareTable(Map<String, Integer> classIndex, Map<String, Integer> quotaIndex, int[] bandOfKm,
+            int bandCount, long[] fares) {
+        this.classIndex = classIndex;
+        this.quotaIndex = quotaIndex;
+        this.bandOfKm = bandOfKm;
+        this.bandCount = bandCount;
+        this.fares = fares;
+    }
+
+    /**
+     * @param maxDistanceKm longest journey a band may reach; it also bounds the size of the km index
+     * @throws IllegalArgumentException if a rule has an invalid or negative fare or band, overlaps another
+     *         rule of the same class, or a surcharge is negative, has min above max, refers to an unknown
+     *         class or is defined twice
+     */
+    static FareTable compile(List<FareRule> rules, List<QuotaSurcharge> surcharges, int maxDistanceKm) {
+        if (rules.isEmpty()) {
+            if (!surcharges.isEmpty()) {
+                throw new IllegalArgumentException("Surcharges defined without any fare rules");
+            }
+            return EMPTY;
+        }
+
+        Map<String, Integer> classIndex = new HashMap<>();
+        Map<String, List<FareRule>> rulesByClass = new HashMap<>();
+        for (FareRule rule : rules) {
+            if (rule.getTravelClass() == null || rule.getTravelClass().isBlank() || rule.getBaseFare() == null) {
+                throw new IllegalArgumentException("Fare rule " + rule.getId() + " needs a travel class and base fare");
+            }
+            if (rule.getDistanceFromKm() < 0 || rule.getDistanceToKm() < rule.getDistanceFromKm()
+                    || rule.getDistanceToKm() > maxDistanceKm) {
+                throw new IllegalArgumentException("Invalid distance band in fare rule " + rule.getId()
+                        + " (must lie within 0.." + maxDistanceKm + " km)");
+            }
+            if (rule.getBaseFare().signum() < 0) {
+                throw new IllegalArgumentException("Negative base fare in fare rule " + rule.getId());
+            }
+            String travelClass = normalize(rule.getTravelClass());
+            classIndex.putIfAbsent(travelClass, classIndex.size());
+            rulesByClass.computeIfAbsent(travelClass, k -> new ArrayList<>()).add(rule);
+        }
+        for (Map.Entry<String, List<FareRule>> entry : rulesByClass.entrySet()) {
+            List<FareRule> sorted = new ArrayList<>(entry.getValue());
+            sorted.sort(Comparator.comparingInt(FareRule::getDistanceFromKm));
+            for (int i = 1; i < sorted.size(); i++) {
+                if (sorted.get(i).getDistanceFromKm() <= sorted.get(i - 1).getDistanceToKm()) {
+                    throw new IllegalArgumentException("Overlapping distance bands for class " + entry.getKey()
+                            + " in fare rules " + sorted.get(i - 1).getId() + " and " + sorted.get(i).getId());
+                }
+            }
+        }
+
+        Map<String, Integer> quotaIndex = new HashMap<>();
+        quotaIndex.put(GENERAL_QUOTA, 0);
+        for (QuotaSurcharge surcharge : surcharges) {
+            if (surcharge.getQuota() == null || surcharge.getQuota().isBlank() || surcharge.getPercentage() == null) {
+                throw new IllegalArgumentException("Surcharge " + surcharge.getId() + " needs a quota and percentage");
+            }
+            if (surcharge.getPercentage().signum() < 0
+                    || (surcharge.getMinAmount() != null && surcharge.getMinAmount().signum() < 0)
+                    || (surcharge.getMaxAmount() != null && surcharge.getMaxAmount().signum() < 0)) {
+                throw new IllegalArgumentException("Surcharge " + surcharge.getId() + " must not be negative");
+            }
+            if (surcharge.getMinAmount() != null && surcharge.getMaxAmount() != null
+                    && surcharge.getMinAmount().compareTo(surcharge.getMaxAmount()) > 0) {
+                throw new IllegalArgumentException("Surcharge " + surcharge.getId() + " has a minimum above its maximum");
+            }
+            if (!classIndex.containsKey(normalize(surcharge.getTravelClass()))) {
+                throw new IllegalArgumentException("Surcharge " + surcharge.getId() + " refers to unknown class "
+                        + surcharge.getTravelClass());
+            }
+            quotaIndex.putIfAbsent(normalize(surcharge.getQuota()), quotaIndex.size());
+        }
+
+        // Split the distance axis at every rule boundary so each elementary band has a single base
+        // fare per class, then map every kilometre to its band.
+        TreeSet<Integer> boundaries = new TreeSet<>();
+        int maxKm = 0;
+        for (FareRule rule : rules) {
+            boundaries.add(rule.getDistanceFromKm());
+            boundaries.add(rule.getDistanceToKm() + 1);
+            maxKm = Math.max(maxKm, rule.getDistanceToKm());
+        }
+        List<Integer> starts = new ArrayList<>(boundaries);
+        int bandCount = starts.size() - 1;
+        int[] bandOfKm = new int[maxKm + 1];
+        Arrays.fill(bandOfKm, -1);
+        for (int b = 0; b < bandCount; b++) {
+            Arrays.fill(bandOfKm, starts.get(b), starts.get(b + 1), b);
+        }
+
+        int classCount = classIndex.size();
+        long[] base = new long[classCount * bandCount];
+        Arrays.fill(base, NO_FARE);
+        for (FareRule rule : rules) {
+            int offset = classIndex.get(normalize(rule.getTravelClass())) * bandCount;
+            long paise = toPaise(rule.getBaseFare());
+            for (int b = bandOfKm[rule.getDistanceFromKm()]; b <= bandOfKm[rule.getDistanceToKm()]; b++) {
+                base[offset + b] = paise;
+            }
+        }
+
+        int quotaCount = quotaIndex.size();
+        long[] basisPoints = new long[quotaCount * classCount];
+        long[] minSurcharge = new long[quotaCount * classCount];
+        long[] maxSurcharge = new long[quotaCount * classCount];
+        Arrays.fill(maxSurcharge, Long.MAX_VALUE);
+        boolean[] defined = new boolean[quotaCount * classCount];
+        for (QuotaSurcharge surcharge : surcharges) {
+            int c = classIndex.get(normalize(surcharge.getTravelClass()));
+            int i = quotaIndex.get(normalize(surcharge.getQuota())) * classCount + c;
+            if (defined[i]) {
+                throw new IllegalArgumentException("Duplicate surcharge for quota " + surcharge.getQuota()
+                        + " and class " + surcharge.getTravelClass());
+            }
+            defined[i] = true;
+            basisPoints[i] = surcharge.getPercentage().movePointRight(2).setScale(0, RoundingMode.HALF_UP).longValue();
+            minSurcharge[i] = surcharge.getMinAmount() == null ? 0 : toPaise(surcharge.getMinAmount());
+            maxSurcharge[i] = surcharge.getMaxAmount() == null ? Long.MAX_VALUE : toPaise(surcharge.getMaxAmount());
+        }
+
+        // Each (quota, class) row is a contiguous run of bands with a single percentage and clamp,
+        // so the adjustment is one branch-light pass over the row.
+        long[] fares = new long[quotaCount * classCount * bandCount];
+        for (int q = 0; q < quotaCount; q++) {
+            for (int c = 0; c < classCount; c++) {
+                int i = q * classCount + c;
+                long bp = basisPoints[i];
+                long min = minSurcharge[i];
+                long max = maxSurcharge[i];
+                int src = c * bandCount;
+                int dst = i * bandCount;
+                for (int b = 0; b < bandCount; b++) {
+                    long fare = base[src + b];
+                    // Both operands are non-negative, so adding half the divisor rounds HALF_UP like toPaise.
+                    long surcharge = Math.min(Math.max((fare * bp + 5_000) / 10_000, min), max);
+                    fares[dst + b] = fare < 0 ? NO_FARE : fare + surcharge;
+                }
+            }
+        }
+
+        return new FareTable(Map.copyOf(classIndex), Map.copyOf(quotaIndex), bandOfKm, bandCount, fares);
+    }
+
+    /**
+     * Class and quota are matched case-insensitively. A quota (or quota and class pair) without a
+     * surcharge row carries no surcharge, i.e. it is priced like {@link #GENERAL_QUOTA}.
+     *
+     * @return the fare in paise, or {@link #NO_FARE} when no rule covers the class and distance.
+     */
+    long lookup(String travelClass, String quota, int distanceKm) {
+        Integer c = travelClass == null ? null : classIndex.get(normalize(travelClass));
+        int q = quota == null ? 0 : quotaIndex.getOrDefault(normalize(quota), 0);
+        if (c == null || distanceKm < 0 || distanceKm >= bandOfKm.length) {
+            return NO_FARE;
+        }
+        int band = bandOfKm[distanceKm];
+        if (band < 0) {
+            return NO_FARE;
+        }
+        return fares[(q * classIndex.size() + c) * bandCount + band];
+    }
+
+    int size() {
+        return fares.length;
+    }
+
+    private static String normalize(String code) {
+        return code == null ? null : code.trim().toUpperCase(Locale.ROOT);
+    }
+
+    private static long toPaise(BigDecimal amount) {
+        return amount.movePointRight(2).setScale(0, RoundingMode.HALF_UP).longValue();
+    }
+}
@@ -0,0 +1,144 @@
+package com.railway.train_service.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import com.railway.train_service.model.FareRule;
+import com.railway.train_service.model.QuotaSurcharge;
+
+class FareTableTest {
+
+	private static final int MAX_KM = 5000;
+
+	private static FareTable compile(List<FareRule> rules, List<QuotaSurcharge> surcharges) {
+		return FareTable.compile(rules, surcharges, MAX_KM);
+	}
+
+	private static FareRule rule(long id, String travelClass, int fromKm, int toKm, String baseFare) {
+		return new FareRule(id, travelClass, fromKm, toKm, new BigDecimal(baseFare));
+	}
+
+	private static QuotaSurcharge surcharge(String quota, String travelClass, String percentage, String min,
+			String max) {
+		return new QuotaSurcharge(null, quota, travelClass, new BigDecimal(percentage),
+				min == null ? null : new BigDecimal(min), max == null ? null : new BigDecimal(max));
+	}
+
+	@Test
+	void splitsBandsAtEveryClassBoundary() {
+		// SL and 3A break at different distances, so the shared band axis is split at 50, 100 and 200.
+		FareTable table = compile(List.of(
+				rule(1, "SL", 1, 50, "100"),
+				rule(2, "SL", 51, 200, "250"),
+				rule(3, "3A", 1, 100, "500"),
+				rule(4, "3A", 101, 200, "900")), List.of());
+
+		assertEquals(10000, table.lookup("SL", null, 1));
+		assertEquals(10000, table.lookup("SL", null, 50));
+		assertEquals(25000, table.lookup("SL", null, 51));
+		assertEquals(25000, table.lookup("SL", null, 150));
+		assertEquals(50000, table.lookup("3A", null, 100));
+		assertEquals(90000, table.lookup("3A", null, 101));
+		assertEquals(90000, table.lookup("3A", null, 200));
+	}
+
+	@Test
+	void returnsNoFareInGapsAndOutsideRange() {
+		FareTable table = compile(List.of(
+				rule(1, "SL", 1, 50, "100"),
+				rule(2, "SL", 101, 200, "300")), List.of());
+
+		assertEquals(FareTable.NO_FARE, table.lookup("SL", null, 0));
+		assertEquals(FareTable.NO_FARE, table.lookup("SL", null, 75));
+		assertEquals(30000, table.lookup("SL", null, 101));
+		assertEquals(FareTable.NO_FARE, table.lookup("SL", null, 201));
+		assertEquals(FareTable.NO_FARE, table.lookup("SL", null, -5));
+	}
+
+	@Test
+	void clampsSurchargeBetweenMinAndMax() {
+		FareTable table = compile(List.of(
+				rule(1, "SL", 1, 100, "100"),
+				rule(2, "SL", 101, 500, "500"),
+				rule(3, "SL", 501, 2000, "1000")),
+				List.of(surcharge("TATKAL", "SL", "30", "100", "200")));
+
+		assertEquals(20000, table.lookup("SL", "TATKAL", 50)); // 30 raised to the 100 minimum
+		assertEquals(65000, table.lookup("SL", "TATKAL", 300)); // 150 is within bounds
+		assertEquals(120000, table.lookup("SL", "TATKAL", 1000)); // 300 capped at 200
+	}
+
+	@Test
+	void roundsToPaise() {
+		FareTable table = compile(List.of(rule(1, "SL", 1, 100, "99.995")),
+				List.of(surcharge("TATKAL", "SL", "12.5", null, null)));
+
+		assertEquals(10000, table.lookup("SL", null, 10));
+		assertEquals(11250, table.lookup("SL", "TATKAL", 10));
+	}
+
+	@Test
+	void roundsSurchargeHalfUp() {
+		FareTable table = compile(List.of(rule(1, "SL", 1, 100, "1.00")),
+				List.of(surcharge("TATKAL", "SL", "0.5", null, null)));
+
+		assertEquals(101, table.lookup("SL", "TATKAL", 10)); // 0.5 paise rounds up, not down
+	}
+
+	@Test
+	void matchesCaseInsensitivelyAndPricesUnknownQuotasAsGeneral() {
+		FareTable table = compile(List.of(
+				rule(1, "SL", 1, 100, "100"),
+				rule(2, "3A", 1, 100, "500")),
+				List.of(surcharge("TATKAL", "SL", "30", "100", null)));
+
+		assertEquals(20000, table.lookup("sl", "tatkal", 10));
+		assertEquals(10000, table.lookup("SL", "LADIES", 10));
+		assertEquals(50000, table.lookup("3A", "TATKAL", 10)); // no TATKAL row for 3A
+		assertEquals(FareTable.NO_FARE, table.lookup("1A", null, 10));
+		assertEquals(FareTable.NO_FARE, table.lookup(null, null, 10));
+	}
+
+	@Test
+	void rejectsInvalidAndOverlappingBands() {
+		assertThrows(IllegalArgumentException.class,
+				() -> compile(List.of(rule(1, "SL", 100, 50, "100")), List.of()));
+		assertThrows(IllegalArgumentException.class, () -> compile(List.of(
+				rule(1, "SL", 1, 100, "100"),
+				rule(2, "sl", 100, 200, "200")), List.of()));
+		assertThrows(IllegalArgumentException.class,
+				() -> compile(List.of(rule(1, "SL", 1, MAX_KM + 1, "100")), List.of()));
+		assertThrows(IllegalArgumentException.class,
+				() -> compile(List.of(rule(1, "SL", 1, Integer.MAX_VALUE, "100")), List.of()));
+		assertThrows(IllegalArgumentException.class,
+				() -> compile(List.of(rule(1, "SL", 1, 100, "-1")), List.of()));
+	}
+
+	@Test
+	void rejectsSurchargesForUnknownClassesAndDuplicates() {
+		List<FareRule> rules = List.of(rule(1, "SL", 1, 100, "100"));
+
+		assertThrows(IllegalArgumentException.class,
+				() -> compile(rules, List.of(surcharge("TATKAL", "1A", "30", null, null))));
+		assertThrows(IllegalArgumentException.class, () -> compile(rules, List.of(
+				surcharge("TATKAL", "SL", "30", null, null),
+				surcharge("tatkal", "SL", "10", null, null))));
+	}
+
+	@Test
+	void rejectsNegativeSurchargesAndInvertedBounds() {
+		List<FareRule> rules = List.of(rule(1, "SL", 1, 100, "100"));
+
+		assertThrows(IllegalArgumentException.class,
+				() -> compile(rules, List.of(surcharge("TATKAL", "SL", "-10", null, null))));
+		assertThrows(IllegalArgumentException.class,
+				() -> compile(rules, List.of(surcharge("TATKAL", "SL", "10", "-5", null))));
+		assertThrows(IllegalArgumentException.class,
+				() -> compile(rules, List.of(surcharge("TATKAL", "SL", "10", "200", "100"))));
+	}
+}